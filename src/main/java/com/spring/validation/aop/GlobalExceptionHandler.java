@@ -1,19 +1,24 @@
 package com.spring.validation.aop;
 
+import com.spring.validation.audit.ViolationAuditSink;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+@RequiredArgsConstructor
 @RestControllerAdvice
 public class GlobalExceptionHandler {
+  private final ViolationAuditSink violationAuditSink;
+
   /**
    * <h1>{@code MethodArgumentNotValidException}</h1>
    * <ul>
@@ -27,6 +32,10 @@ public class GlobalExceptionHandler {
    */
   @ExceptionHandler(MethodArgumentNotValidException.class)
   ResponseEntity<Object> onMethodArgumentNotValidException(MethodArgumentNotValidException e) {
+    e.getBindingResult().getFieldErrors().forEach(fieldError -> violationAuditSink.record(
+        "request", fieldError.getField(), fieldError.getCode(), fieldError.getDefaultMessage(),
+        fieldError.contains(ConstraintViolation.class) ? fieldError.unwrap(ConstraintViolation.class).getMessageTemplate() : null,
+        fieldError.getRejectedValue()));
     Map<String, String> errors = e.getBindingResult().getFieldErrors().stream()
         .collect(Collectors.toMap(
             FieldError::getField,
@@ -46,6 +55,10 @@ public class GlobalExceptionHandler {
    */
   @ExceptionHandler(ConstraintViolationException.class)
   ResponseEntity<Object> onConstraintValidationException(ConstraintViolationException e) {
+    e.getConstraintViolations().forEach(violation -> violationAuditSink.record(
+        "method", violation.getPropertyPath().toString(),
+        violation.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName(),
+        violation.getMessage(), violation.getMessageTemplate(), violation.getInvalidValue()));
     Map<String, String> errors = e.getConstraintViolations().stream()
         .collect(Collectors.toMap(
             violation -> StreamSupport.stream(violation.getPropertyPath().spliterator(), false)
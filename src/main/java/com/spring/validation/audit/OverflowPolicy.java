@@ -0,0 +1,9 @@
+package com.spring.validation.audit;
+
+/**
+ * 감사 버퍼가 가득 찼을 때의 처리 방식
+ */
+public enum OverflowPolicy {
+    DROP, // 즉시 버리고 dropped 카운터를 증가시킨다.
+    BLOCK // blockTimeout 동안 빈 슬롯을 기다린 후에도 없으면 버린다.
+}
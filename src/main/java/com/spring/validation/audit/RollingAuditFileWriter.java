@@ -0,0 +1,148 @@
+package com.spring.validation.audit;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 감사 레코드를 한 줄씩(TSV) 파일에 추가하는 writer
+ * <ul>
+ *   <li>
+ *     direct {@link ByteBuffer}에 모아 두었다가 가득 차거나 {@link #flush()}가 호출될 때 {@link FileChannel}로 기록한다.
+ *   </li>
+ *   <li>
+ *     파일 크기가 maxFileSize를 넘으면 다음 레코드를 쓰기 전에 {@code name.1}, {@code name.2} ... 순으로 밀어내고 새 파일을 연다.
+ *   </li>
+ * </ul>
+ * 단일 writer 스레드에서만 사용해야 한다.
+ */
+class RollingAuditFileWriter implements Closeable {
+    private static final int BUFFER_CAPACITY = 64 * 1024;
+
+    private final Path file;
+    private final long maxFileSize;
+    private final int maxHistory;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_CAPACITY);
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    private final StringBuilder line = new StringBuilder(256);
+    private FileChannel channel;
+    private long size;
+
+    RollingAuditFileWriter(Path directory, String fileName, long maxFileSize, int maxHistory) throws IOException {
+        Files.createDirectories(directory);
+        this.file = directory.resolve(fileName);
+        this.maxFileSize = maxFileSize;
+        this.maxHistory = maxHistory;
+        open();
+    }
+
+    void write(List<ViolationRecord> records) throws IOException {
+        for (ViolationRecord record : records) {
+            if (size + buffer.position() >= maxFileSize) { // 한 줄이 두 파일에 나뉘지 않도록 레코드 경계에서만 교체한다.
+                flush();
+                roll();
+            }
+            append(record);
+        }
+    }
+
+    /**
+     * 버퍼의 내용을 채널에 기록한다. 실패해도 버퍼는 쓰기 모드로 되돌려 다음 레코드가 깨지지 않게 한다.
+     */
+    void flush() throws IOException {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                size += channel.write(buffer);
+            }
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void append(ViolationRecord record) throws IOException {
+        line.setLength(0);
+        line.append(record.getTimestamp()).append('\t');
+        appendEscaped(record.getSource()).append('\t');
+        appendEscaped(record.getField()).append('\t');
+        appendEscaped(record.getConstraint()).append('\t');
+        appendEscaped(record.getMessage()).append('\t');
+        appendEscaped(record.getValue()).append('\n');
+
+        final CharBuffer chars = CharBuffer.wrap(line);
+        encoder.reset();
+        for (;;) {
+            final CoderResult result = encoder.encode(chars, buffer, true);
+            if (result.isOverflow()) {
+                flush();
+                continue;
+            }
+            if (result.isError()) {
+                result.throwException();
+            }
+            break;
+        }
+    }
+
+    private StringBuilder appendEscaped(String value) {
+        if (value == null) {
+            return line;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '\t' -> line.append("\\t");
+                case '\n' -> line.append("\\n");
+                case '\r' -> line.append("\\r");
+                case '\\' -> line.append("\\\\");
+                default -> line.append(c);
+            }
+        }
+        return line;
+    }
+
+    private void roll() throws IOException {
+        channel.close();
+        if (maxHistory > 0) {
+            Files.deleteIfExists(history(maxHistory));
+            for (int i = maxHistory - 1; i >= 1; i--) {
+                final Path source = history(i);
+                if (Files.exists(source)) {
+                    Files.move(source, history(i + 1), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            Files.move(file, history(1), StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.delete(file);
+        }
+        open();
+    }
+
+    private Path history(int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+
+    private void open() throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        size = channel.size();
+    }
+}
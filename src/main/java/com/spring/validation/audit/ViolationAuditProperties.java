@@ -0,0 +1,24 @@
+package com.spring.validation.audit;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "validation.audit")
+public class ViolationAuditProperties {
+    private boolean enabled = true;
+    private int bufferSize = 8_192; // 2의 거듭제곱으로 올림 처리된다.
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+    private Duration blockTimeout = Duration.ofMillis(50); // BLOCK 정책에서 최대 대기 시간
+    private int batchSize = 256;
+    private Duration flushInterval = Duration.ofMillis(200); // 버퍼가 비었을 때 writer가 대기하는 시간
+    private Path directory = Path.of("logs", "audit");
+    private String fileName = "validation-audit.log";
+    private DataSize maxFileSize = DataSize.ofMegabytes(10);
+    private int maxHistory = 5; // 보관할 이전 파일 개수(validation-audit.log.1 ~ .5)
+}
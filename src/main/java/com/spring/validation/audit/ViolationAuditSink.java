@@ -0,0 +1,247 @@
+package com.spring.validation.audit;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.MessageSource;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * <h1>유효성 검사 실패 감사 로그</h1>
+ * <ul>
+ *   <li>
+ *     요청 스레드에서는 {@link #record}로 레코드를 {@link ViolationRingBuffer}에 넣기만 하고 바로 반환한다.
+ *   </li>
+ *   <li>
+ *     백그라운드 writer 스레드가 batchSize 단위로 꺼내 {@link RollingAuditFileWriter}로 파일에 기록한다.
+ *   </li>
+ *   <li>
+ *     버퍼가 가득 찼을 때는 {@link OverflowPolicy}에 따라 버리거나 잠시 기다리며, 버린 건수는 {@link #getDroppedCount()}로 확인할 수 있다.
+ *   </li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class ViolationAuditSink implements SmartLifecycle {
+    private static final String VALIDATED_VALUE = "${validatedValue}";
+
+    private final ViolationAuditProperties properties;
+    private final MessageSource messageSource;
+    private final Map<String, Boolean> echoingTemplates = new ConcurrentHashMap<>(); // key: locale|template
+    private final ViolationRingBuffer buffer;
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder writeFailures = new LongAdder();
+    private volatile boolean running;
+    private volatile boolean stopped; // 종료된 뒤에는 BLOCK 정책이어도 기다리지 않는다.
+    private Thread writerThread;
+
+    public ViolationAuditSink(ViolationAuditProperties properties, MessageSource messageSource) {
+        this.properties = properties;
+        this.messageSource = messageSource;
+        this.buffer = new ViolationRingBuffer(properties.getBufferSize());
+    }
+
+    /**
+     * 실패 사유 한 건을 감사 버퍼에 넣는다. 파일 I/O는 하지 않는다.
+     * rejectedValue는 마스킹되며, messageTemplate이 {@code ${validatedValue}}를 사용하는 경우에만
+     * message에 포함된 값도 같은 형태로 치환된다.
+     */
+    public void record(String source, String field, String constraint, String message, String messageTemplate,
+        Object rejectedValue) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        final String redacted = redact(rejectedValue);
+        final ViolationRecord violationRecord = ViolationRecord.builder()
+            .timestamp(System.currentTimeMillis())
+            .source(source)
+            .field(field)
+            .constraint(constraint)
+            .message(echoesValidatedValue(messageTemplate) ? redactMessage(message, rejectedValue, redacted) : message)
+            .value(redacted)
+            .build();
+
+        if (buffer.offer(violationRecord) || (properties.getOverflowPolicy() == OverflowPolicy.BLOCK && awaitOffer(violationRecord))) {
+            enqueued.increment();
+        } else {
+            dropped.increment();
+        }
+    }
+
+    public long getEnqueuedCount() {
+        return enqueued.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    public long getWriteFailureCount() {
+        return writeFailures.sum();
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled() || running) {
+            return;
+        }
+        final RollingAuditFileWriter writer;
+        try {
+            writer = new RollingAuditFileWriter(
+                properties.getDirectory(),
+                properties.getFileName(),
+                properties.getMaxFileSize().toBytes(),
+                properties.getMaxHistory());
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot open audit file in " + properties.getDirectory(), e);
+        }
+        stopped = false;
+        running = true;
+        writerThread = new Thread(() -> drainLoop(writer), "validation-audit-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * 버퍼에 남은 레코드를 모두 기록한 뒤 writer 스레드를 종료한다.
+     */
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        stopped = true;
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버(DEFAULT_PHASE - 2048)보다 먼저 시작하고 나중에 종료해서 마지막 요청의 실패 사유까지 기록한다.
+     */
+    @Override
+    public int getPhase() {
+        return DEFAULT_PHASE - 4096;
+    }
+
+    private boolean awaitOffer(ViolationRecord violationRecord) {
+        final long deadline = System.nanoTime() + properties.getBlockTimeout().toNanos();
+        while (!stopped && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+            if (buffer.offer(violationRecord)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void drainLoop(RollingAuditFileWriter writer) {
+        final int batchSize = Math.max(1, properties.getBatchSize());
+        final long idleNanos = properties.getFlushInterval().toNanos();
+        final List<ViolationRecord> batch = new ArrayList<>(batchSize);
+        boolean dirty = false;
+        try {
+            while (running || !buffer.isEmpty()) {
+                if (buffer.drainTo(batch, batchSize) > 0) {
+                    dirty |= writeBatch(writer, batch);
+                    continue;
+                }
+                if (dirty) {
+                    dirty = !flush(writer);
+                }
+                if (running) {
+                    LockSupport.parkNanos(idleNanos);
+                }
+            }
+        } finally {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                log.warn("Failed to close audit file", e);
+            }
+        }
+    }
+
+    private boolean writeBatch(RollingAuditFileWriter writer, List<ViolationRecord> batch) {
+        try {
+            writer.write(batch);
+            written.add(batch.size());
+            return true;
+        } catch (IOException e) {
+            writeFailures.add(batch.size());
+            log.warn("Failed to write {} audit records", batch.size(), e);
+            return false;
+        } finally {
+            batch.clear();
+        }
+    }
+
+    private boolean flush(RollingAuditFileWriter writer) {
+        try {
+            writer.flush();
+            return true;
+        } catch (IOException e) {
+            log.warn("Failed to flush audit file", e);
+            return false;
+        }
+    }
+
+    static String redact(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        return "***(" + value.getClass().getSimpleName() + ", length=" + String.valueOf(value).length() + ")";
+    }
+
+    /**
+     * {@code {key}} 형태의 템플릿은 MessageSource에서 찾은 원문으로 판단한다.
+     * ex) {@code {com.spring.validation.constraint.NoEmoji.message}} -> {@code Emoji[${validatedValue}] is not allowed}
+     * locale마다 원문이 다를 수 있으므로 locale별로 캐시한다.
+     */
+    private boolean echoesValidatedValue(String messageTemplate) {
+        if (messageTemplate == null) {
+            return false;
+        }
+        final Locale locale = LocaleContextHolder.getLocale();
+        return echoingTemplates.computeIfAbsent(locale.toLanguageTag() + '|' + messageTemplate, ignored -> {
+            if (messageTemplate.length() > 2 && messageTemplate.startsWith("{") && messageTemplate.endsWith("}")) {
+                final String resolved = messageSource.getMessage(
+                    messageTemplate.substring(1, messageTemplate.length() - 1), null, messageTemplate, locale);
+                return resolved != null && resolved.contains(VALIDATED_VALUE);
+            }
+            return messageTemplate.contains(VALIDATED_VALUE);
+        });
+    }
+
+    private static String redactMessage(String message, Object rejectedValue, String redacted) {
+        if (message == null || rejectedValue == null) {
+            return message;
+        }
+        final String raw = String.valueOf(rejectedValue);
+        return raw.isEmpty() ? message : message.replace(raw, redacted);
+    }
+}
@@ -0,0 +1,19 @@
+package com.spring.validation.audit;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 유효성 검사 실패 한 건에 대한 감사 레코드
+ * value는 {@link ViolationAuditSink}에서 마스킹된 값만 담긴다.
+ */
+@Builder
+@Getter
+public class ViolationRecord {
+    private final long timestamp;
+    private final String source;
+    private final String field;
+    private final String constraint;
+    private final String message;
+    private final String value;
+}
@@ -0,0 +1,90 @@
+package com.spring.validation.audit;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 미리 할당된 슬롯을 사용하는 lock-free 링 버퍼(다중 생산자, 단일 소비자)
+ * <ul>
+ *   <li>
+ *     각 슬롯은 sequence 값을 가지며 생산자는 tail에 대한 CAS로 슬롯을 예약한 뒤
+ *     값을 기록하고 sequence를 증가시켜 소비자에게 공개한다.
+ *   </li>
+ *   <li>
+ *     소비자는 writer 스레드 하나뿐이므로 head는 원자적일 필요가 없다.
+ *   </li>
+ * </ul>
+ */
+class ViolationRingBuffer {
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<ViolationRecord> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private long head;
+
+    ViolationRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 2) {
+            throw new IllegalArgumentException("capacity must be at least 2: " + requestedCapacity);
+        }
+        this.capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return 버퍼가 가득 차 있으면 false
+     */
+    boolean offer(ViolationRecord record) {
+        long position = tail.get();
+        for (;;) {
+            final int index = (int) (position & mask);
+            final long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.set(index, record);
+                    sequences.set(index, position + 1); // 소비자에게 공개
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false; // 한 바퀴 전의 레코드를 아직 소비하지 않았다.
+            } else {
+                position = tail.get(); // 다른 생산자가 먼저 예약했다.
+            }
+        }
+    }
+
+    /**
+     * writer 스레드에서만 호출해야 한다.
+     */
+    int drainTo(List<ViolationRecord> target, int maxElements) {
+        int drained = 0;
+        while (drained < maxElements) {
+            final int index = (int) (head & mask);
+            if (sequences.get(index) != head + 1) {
+                break;
+            }
+            target.add(slots.get(index));
+            slots.set(index, null);
+            sequences.set(index, head + capacity); // 다음 바퀴의 생산자에게 슬롯 반환
+            head++;
+            drained++;
+        }
+        return drained;
+    }
+
+    boolean isEmpty() {
+        return sequences.get((int) (head & mask)) != head + 1;
+    }
+}
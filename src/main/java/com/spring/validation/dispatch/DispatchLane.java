@@ -0,0 +1,183 @@
+package com.spring.validation.dispatch;
+
+import com.spring.validation.enums.MessageType;
+import com.spring.validation.model.Message;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 한 종류의 메시지를 담당하는 bounded 큐와 worker 스레드 묶음
+ * <ul>
+ *   <li>
+ *     worker는 첫 메시지를 꺼낸 뒤 batchSize가 차거나 lingerTime이 지날 때까지 묶음을 채워 {@link MessageSender}로 넘긴다.
+ *   </li>
+ *   <li>
+ *     큐가 가득 차면 호출자는 offerTimeout 동안 기다리고, 그래도 자리가 없으면 {@link RejectedExecutionException}을 받는다.
+ *   </li>
+ *   <li>
+ *     큐에 넣기와 종료는 {@link ReadWriteLock}으로 배타적으로 처리하여, 종료 이후에 받아들여진 메시지가 발송되지 않는 일이 없게 한다.
+ *   </li>
+ * </ul>
+ */
+@Slf4j
+class DispatchLane {
+    private static final long IDLE_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final MessageType type;
+    private final MessageDispatchProperties.Lane settings;
+    private final MessageSender sender;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final long offerTimeoutNanos;
+    private final BlockingQueue<Message> queue;
+    private final List<Thread> workers = new ArrayList<>();
+    private final LongAdder sentMessages = new LongAdder();
+    private final LongAdder sentBatches = new LongAdder();
+    private final LongAdder rejectedMessages = new LongAdder();
+    private final LongAdder failedMessages = new LongAdder();
+    private final ReadWriteLock acceptLock = new ReentrantReadWriteLock(); // read: dispatch, write: stop
+    private volatile boolean running;
+
+    DispatchLane(MessageType type, MessageDispatchProperties properties, MessageDispatchProperties.Lane settings, MessageSender sender) {
+        this.type = type;
+        this.settings = settings;
+        this.sender = sender;
+        this.batchSize = Math.max(1, properties.getBatchSize());
+        this.lingerNanos = properties.getLingerTime().toNanos();
+        this.offerTimeoutNanos = properties.getOfferTimeout().toNanos();
+        this.queue = new ArrayBlockingQueue<>(settings.getQueueCapacity());
+    }
+
+    void dispatch(Message message) {
+        final boolean accepted;
+        acceptLock.readLock().lock();
+        try {
+            if (!running) {
+                throw new RejectedExecutionException(type + " dispatch lane is not running");
+            }
+            accepted = queue.offer(message, offerTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for " + type + " dispatch queue", e);
+        } finally {
+            acceptLock.readLock().unlock();
+        }
+        if (!accepted) {
+            rejectedMessages.increment();
+            throw new RejectedExecutionException(type + " dispatch queue is full (capacity=" + settings.getQueueCapacity() + ")");
+        }
+    }
+
+    void start() {
+        running = true;
+        for (int i = 0; i < settings.getWorkers(); i++) {
+            final Thread worker = new Thread(this::drainLoop, "message-dispatch-" + type.name().toLowerCase() + "-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    /**
+     * 새 메시지를 받지 않고, 큐에 남은 메시지를 모두 발송한 뒤 worker를 종료한다.
+     * worker가 제한 시간 안에 끝나지 않아 큐에 남은 메시지는 호출한 스레드에서 발송한다.
+     */
+    void stop(long timeoutMillis) throws InterruptedException {
+        acceptLock.writeLock().lock(); // 진행 중인 dispatch()가 끝날 때까지 기다린다.
+        try {
+            running = false;
+        } finally {
+            acceptLock.writeLock().unlock();
+        }
+        final long deadline = System.currentTimeMillis() + timeoutMillis;
+        for (Thread worker : workers) {
+            worker.join(Math.max(1, deadline - System.currentTimeMillis()));
+        }
+        workers.clear();
+
+        final List<Message> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            send(batch);
+            batch.clear();
+        }
+    }
+
+    boolean isRunning() {
+        return running;
+    }
+
+    int getQueueSize() {
+        return queue.size();
+    }
+
+    long getSentMessageCount() {
+        return sentMessages.sum();
+    }
+
+    long getSentBatchCount() {
+        return sentBatches.sum();
+    }
+
+    long getRejectedMessageCount() {
+        return rejectedMessages.sum();
+    }
+
+    long getFailedMessageCount() {
+        return failedMessages.sum();
+    }
+
+    private void drainLoop() {
+        final List<Message> batch = new ArrayList<>(batchSize);
+        try {
+            while (running || !queue.isEmpty()) {
+                final Message first = queue.poll(IDLE_POLL_NANOS, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fill(batch);
+                send(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void fill(List<Message> batch) throws InterruptedException {
+        final long deadline = System.nanoTime() + lingerNanos;
+        while (batch.size() < batchSize) {
+            if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                continue;
+            }
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || !running) {
+                return;
+            }
+            final Message next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void send(List<Message> batch) {
+        try {
+            sender.send(type, batch);
+            sentMessages.add(batch.size());
+            sentBatches.increment();
+        } catch (RuntimeException e) {
+            failedMessages.add(batch.size());
+            log.warn("Failed to send {} {} messages", batch.size(), type, e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.spring.validation.dispatch;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "validation.dispatch")
+public class MessageDispatchProperties {
+    private int batchSize = 500; // 묶음 최대 건수
+    private Duration lingerTime = Duration.ofMillis(5); // 첫 메시지를 꺼낸 후 묶음을 채우기 위해 기다리는 최대 시간
+    private Duration offerTimeout = Duration.ofMillis(10); // 큐가 가득 찼을 때 호출자가 기다리는 최대 시간
+    private Lane normal = new Lane(4, 10_000);
+    private Lane ad = new Lane(1, 10_000);
+
+    /**
+     * 메시지 종류별 큐와 worker 설정
+     * 우선순위는 종류별로 분리된 큐와 worker 수로 정해진다.
+     * 광고 메시지가 밀려도 일반 메시지는 영향을 받지 않으며, worker가 많은 쪽이 더 빨리 처리된다.
+     */
+    @Getter
+    @Setter
+    public static class Lane {
+        private int workers;
+        private int queueCapacity;
+
+        public Lane() {
+            this(1, 10_000);
+        }
+
+        public Lane(int workers, int queueCapacity) {
+            this.workers = workers;
+            this.queueCapacity = queueCapacity;
+        }
+    }
+}
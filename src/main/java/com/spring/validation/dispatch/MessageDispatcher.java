@@ -0,0 +1,105 @@
+package com.spring.validation.dispatch;
+
+import com.spring.validation.enums.MessageType;
+import com.spring.validation.model.Message;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * <h1>메시지 발송 파이프라인</h1>
+ * <ul>
+ *   <li>
+ *     유효성 검사를 통과한 {@link Message}를 종류별 bounded 큐에 넣고 바로 반환한다.
+ *   </li>
+ *   <li>
+ *     종류별 worker 스레드가 큐를 비우며 batchSize 또는 lingerTime 기준으로 묶어 {@link MessageSender}에 넘긴다.
+ *   </li>
+ *   <li>
+ *     일반 메시지와 광고 메시지는 큐와 worker가 분리되어 있으며, 우선순위는 종류별 worker 수로 정한다.
+ *     기본값은 일반 메시지에 더 많은 worker를 준다.
+ *   </li>
+ * </ul>
+ */
+@Component
+public class MessageDispatcher implements SmartLifecycle {
+    private static final long STOP_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    private final Map<MessageType, DispatchLane> lanes = new EnumMap<>(MessageType.class);
+
+    /**
+     * 실제 발송 구현체({@link MessageSender} 빈)가 없으면 로컬 {@link StubMessageSender}를 사용한다.
+     */
+    @Autowired
+    public MessageDispatcher(MessageDispatchProperties properties, ObjectProvider<MessageSender> messageSender) {
+        this(properties, messageSender.getIfAvailable(StubMessageSender::new));
+    }
+
+    public MessageDispatcher(MessageDispatchProperties properties, MessageSender messageSender) {
+        lanes.put(MessageType.NORMAL, new DispatchLane(MessageType.NORMAL, properties, properties.getNormal(), messageSender));
+        lanes.put(MessageType.AD, new DispatchLane(MessageType.AD, properties, properties.getAd(), messageSender));
+    }
+
+    /**
+     * 큐가 가득 차 있으면 offerTimeout 동안 기다린다. (backpressure)
+     *
+     * @throws RejectedExecutionException offerTimeout 안에 큐에 넣지 못했거나 dispatcher가 동작 중이 아닌 경우
+     */
+    public void dispatch(MessageType type, Message message) {
+        lanes.get(type).dispatch(message);
+    }
+
+    public int getQueueSize(MessageType type) {
+        return lanes.get(type).getQueueSize();
+    }
+
+    public long getSentMessageCount(MessageType type) {
+        return lanes.get(type).getSentMessageCount();
+    }
+
+    public long getSentBatchCount(MessageType type) {
+        return lanes.get(type).getSentBatchCount();
+    }
+
+    public long getRejectedMessageCount(MessageType type) {
+        return lanes.get(type).getRejectedMessageCount();
+    }
+
+    public long getFailedMessageCount(MessageType type) {
+        return lanes.get(type).getFailedMessageCount();
+    }
+
+    @Override
+    public void start() {
+        lanes.values().forEach(DispatchLane::start);
+    }
+
+    @Override
+    public void stop() {
+        try {
+            for (DispatchLane lane : lanes.values()) {
+                lane.stop(STOP_TIMEOUT_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return lanes.values().stream().anyMatch(DispatchLane::isRunning);
+    }
+
+    /**
+     * 웹 서버보다 나중에 종료해서 마지막 요청에서 넣은 메시지까지 발송한다.
+     */
+    @Override
+    public int getPhase() {
+        return DEFAULT_PHASE - 4096;
+    }
+}
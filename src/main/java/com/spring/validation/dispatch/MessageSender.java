@@ -0,0 +1,14 @@
+package com.spring.validation.dispatch;
+
+import com.spring.validation.enums.MessageType;
+import com.spring.validation.model.Message;
+import java.util.List;
+
+/**
+ * 유효성 검사를 통과한 메시지를 실제로 발송하는 구현체
+ * {@link MessageDispatcher}의 worker 스레드에서 묶음(batch) 단위로 호출되며, 같은 묶음에는 같은 종류의 메시지만 담긴다.
+ * 전달된 List는 호출이 끝나면 재사용되므로 보관하려면 복사해야 한다.
+ */
+public interface MessageSender {
+    void send(MessageType type, List<Message> messages);
+}
@@ -0,0 +1,56 @@
+package com.spring.validation.dispatch;
+
+import com.spring.validation.enums.MessageType;
+import com.spring.validation.model.Message;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 외부로 발송하지 않고 건수만 세는 로컬 {@link MessageSender}
+ * 다른 {@link MessageSender} 빈이 없을 때 {@link MessageDispatcher}가 기본으로 사용하며, 테스트와 벤치마크에서도 사용한다.
+ * latencyPerBatch를 지정하면 묶음마다 그만큼 지연시켜 블로킹 발송을 흉내낸다.
+ */
+public class StubMessageSender implements MessageSender {
+    private final long latencyPerBatchNanos;
+    private final Map<MessageType, LongAdder> messageCounts = new EnumMap<>(MessageType.class);
+    private final Map<MessageType, LongAdder> batchCounts = new EnumMap<>(MessageType.class);
+
+    public StubMessageSender() {
+        this(Duration.ZERO);
+    }
+
+    public StubMessageSender(Duration latencyPerBatch) {
+        this.latencyPerBatchNanos = latencyPerBatch.toNanos();
+        for (MessageType type : MessageType.values()) {
+            messageCounts.put(type, new LongAdder());
+            batchCounts.put(type, new LongAdder());
+        }
+    }
+
+    @Override
+    public void send(MessageType type, List<Message> messages) {
+        if (latencyPerBatchNanos > 0) {
+            LockSupport.parkNanos(latencyPerBatchNanos);
+        }
+        messageCounts.get(type).add(messages.size());
+        batchCounts.get(type).increment();
+    }
+
+    public long getMessageCount(MessageType type) {
+        return messageCounts.get(type).sum();
+    }
+
+    public long getBatchCount(MessageType type) {
+        return batchCounts.get(type).sum();
+    }
+
+    @Override
+    public String toString() {
+        return "StubMessageSender(latencyPerBatch=" + TimeUnit.NANOSECONDS.toMicros(latencyPerBatchNanos) + "us)";
+    }
+}
@@ -0,0 +1,6 @@
+package com.spring.validation.enums;
+
+public enum MessageType {
+    NORMAL,
+    AD
+}
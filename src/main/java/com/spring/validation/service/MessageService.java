@@ -1,33 +1,42 @@
 package com.spring.validation.service;
 
+import com.spring.validation.dispatch.MessageDispatcher;
+import com.spring.validation.enums.MessageType;
 import com.spring.validation.groups.Ad;
 import com.spring.validation.model.Message;
 import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
+@RequiredArgsConstructor
 @Validated
 @Service
 public class MessageService {
+    private final MessageDispatcher messageDispatcher;
+    private final ObjectProvider<MessageService> self; // 자기 자신의 Proxy, 순환 참조를 피하기 위해 지연 조회한다.
+
     @Validated(Ad.class) // 메서드 호출 시 Ad 그룹이 지정된 제약만 검사한다.
     public void sendAdMessage(@Valid Message message) {
-        // Do Something
+        messageDispatcher.dispatch(MessageType.AD, message); // 유효성 검사를 통과한 메시지만 큐에 들어간다.
     }
 
     public void sendNormalMessage(@Valid Message message) {
-        // Do Something
+        messageDispatcher.dispatch(MessageType.NORMAL, message);
     }
 
     /**
-     * 주의: 이렇게 호출하면 Spring AOP Proxy 구조상 @Valid를 설정한 메서드가 호출되어도 유효성 검사가 동작하지 않는다.
+     * 주의: {@code this.sendAdMessage(message)}처럼 호출하면 Spring AOP Proxy 구조상 @Valid를 설정한 메서드가 호출되어도 유효성 검사가 동작하지 않는다.
+     * 그래서 주입받은 Proxy({@code self})를 통해 호출하여 유효성 검사를 통과한 메시지만 발송되도록 한다.
      * Spring의 AOP Proxy 구조에 대한 설명은 다음 링크를 참고하자.
      * - https://docs.spring.io/spring/docs/5.2.3.RELEASE/spring-framework-reference/core.html#aop-understanding-aop-proxies
      */
     public void sendMessage(Message message, boolean isAd) {
         if (isAd) {
-            sendAdMessage(message);
+            self.getObject().sendAdMessage(message);
         } else {
-            sendNormalMessage(message);
+            self.getObject().sendNormalMessage(message);
         }
     }
 
@@ -35,6 +44,6 @@ public class MessageService {
      * message.isAd가 true이면 Ad 그룹에 속한 contcat, removeGuide 속성까지 검사한다.
      */
     public void sendMessage(@Valid Message message) {
-         // Do Something
+        messageDispatcher.dispatch(message.isAd() ? MessageType.AD : MessageType.NORMAL, message);
     }
 }
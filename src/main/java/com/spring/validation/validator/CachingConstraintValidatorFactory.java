@@ -0,0 +1,133 @@
+package com.spring.validation.validator;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorFactory;
+import java.lang.annotation.Annotation;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.validation.beanvalidation.SpringConstraintValidatorFactory;
+
+/**
+ * <h1>상태가 없는 유효성 검사기를 재사용하는 {@link ConstraintValidatorFactory}</h1>
+ * <ul>
+ *   <li>
+ *     실제 생성과 의존성 주입은 {@link SpringConstraintValidatorFactory}에 위임하므로
+ *     {@link AdMessageConstraintValidator}처럼 생성자로 빈을 받는 검사기도 그대로 동작한다.
+ *   </li>
+ *   <li>
+ *     {@code initialize()}를 재정의하지 않은 검사기는 제약 조건의 속성 값과 무관하게 동작하므로
+ *     클래스당 한 번만 만들어 모든 제약 조건과 {@link jakarta.validation.ValidatorFactory}가 공유한다.<br>
+ *     예제) {@link NoEmojiValidator}, {@link AdMessageConstraintValidator}
+ *   </li>
+ *   <li>
+ *     {@code initialize()}에서 속성 값을 보관하는 검사기는 공유하면 안 되므로 매번 새로 만든다.
+ *   </li>
+ *   <li>
+ *     클래스별 생성 횟수, 생성(autowiring)에 걸린 시간, 캐시 적중 횟수, 해제 횟수를 기록한다.
+ *   </li>
+ * </ul>
+ */
+public class CachingConstraintValidatorFactory implements ConstraintValidatorFactory {
+    private final ConstraintValidatorFactory delegate;
+    private final ConcurrentMap<Class<?>, ConstraintValidator<?, ?>> sharedInstances = new ConcurrentHashMap<>();
+    // delegate가 요청한 클래스의 하위 클래스나 proxy를 돌려줄 수 있으므로 해제 시에는 인스턴스 자체로 판단한다.
+    private final Set<ConstraintValidator<?, ?>> sharedIdentities = Collections.synchronizedSet(
+        Collections.newSetFromMap(new IdentityHashMap<>()));
+    private final ConcurrentMap<Class<?>, LongAdder> instantiations = new ConcurrentHashMap<>();
+    private final LongAdder autowireNanos = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder releases = new LongAdder();
+
+    public CachingConstraintValidatorFactory(AutowireCapableBeanFactory beanFactory) {
+        this(new SpringConstraintValidatorFactory(beanFactory));
+    }
+
+    public CachingConstraintValidatorFactory(ConstraintValidatorFactory delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public <T extends ConstraintValidator<?, ?>> T getInstance(Class<T> key) {
+        final ConstraintValidator<?, ?> shared = sharedInstances.get(key);
+        if (shared != null) {
+            cacheHits.increment();
+            return key.cast(shared);
+        }
+        if (!isStateless(key)) {
+            return create(key);
+        }
+        return key.cast(sharedInstances.computeIfAbsent(key, ignored -> { // 동시에 요청되어도 한 번만 생성된다.
+            final T instance = create(key);
+            sharedIdentities.add(instance);
+            return instance;
+        }));
+    }
+
+    /**
+     * 공유 인스턴스는 다른 제약 조건에서도 사용 중이므로 {@link #close()}에서 한꺼번에 해제한다.
+     */
+    @Override
+    public void releaseInstance(ConstraintValidator<?, ?> instance) {
+        if (sharedIdentities.contains(instance)) {
+            return;
+        }
+        releases.increment();
+        delegate.releaseInstance(instance);
+    }
+
+    public void close() {
+        sharedInstances.values().forEach(instance -> {
+            releases.increment();
+            delegate.releaseInstance(instance);
+        });
+        sharedInstances.clear();
+        sharedIdentities.clear();
+    }
+
+    public long getInstantiationCount(Class<?> validatorClass) {
+        final LongAdder count = instantiations.get(validatorClass);
+        return count == null ? 0 : count.sum();
+    }
+
+    public long getTotalInstantiationCount() {
+        return instantiations.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public Duration getTotalAutowireTime() {
+        return Duration.ofNanos(autowireNanos.sum());
+    }
+
+    public long getCacheHitCount() {
+        return cacheHits.sum();
+    }
+
+    public long getReleaseCount() {
+        return releases.sum();
+    }
+
+    private <T extends ConstraintValidator<?, ?>> T create(Class<T> key) {
+        final long startedAt = System.nanoTime();
+        final T instance = delegate.getInstance(key);
+        autowireNanos.add(System.nanoTime() - startedAt);
+        instantiations.computeIfAbsent(key, ignored -> new LongAdder()).increment();
+        return instance;
+    }
+
+    /**
+     * {@code initialize(A)}를 재정의하면 컴파일러가 {@code initialize(Annotation)} bridge 메서드를 검사기 클래스에 만든다.
+     * 따라서 선언한 클래스가 {@link ConstraintValidator}이면 기본 구현(아무것도 하지 않음)을 그대로 사용하는 것이다.
+     */
+    static boolean isStateless(Class<?> validatorClass) {
+        try {
+            return validatorClass.getMethod("initialize", Annotation.class).getDeclaringClass() == ConstraintValidator.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+}
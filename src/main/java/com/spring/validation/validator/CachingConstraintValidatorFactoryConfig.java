@@ -0,0 +1,34 @@
+package com.spring.validation.validator;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+/**
+ * Spring Boot가 만드는 {@code defaultValidator}를 포함해 모든 {@link LocalValidatorFactoryBean}이
+ * 하나의 {@link CachingConstraintValidatorFactory}를 사용하도록 초기화 전에 설정한다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class CachingConstraintValidatorFactoryConfig {
+    @Bean
+    public static CachingConstraintValidatorFactory cachingConstraintValidatorFactory(ApplicationContext applicationContext) {
+        return new CachingConstraintValidatorFactory(applicationContext.getAutowireCapableBeanFactory());
+    }
+
+    @Bean
+    public static BeanPostProcessor cachingConstraintValidatorFactoryPostProcessor(
+        ObjectProvider<CachingConstraintValidatorFactory> constraintValidatorFactory) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof LocalValidatorFactoryBean localValidatorFactoryBean) {
+                    localValidatorFactoryBean.setConstraintValidatorFactory(constraintValidatorFactory.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,255 @@
+package com.spring.validation.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.util.unit.DataSize;
+
+class ViolationAuditSinkTest {
+    private static final String NO_EMOJI_TEMPLATE = "{com.spring.validation.constraint.NoEmoji.message}";
+
+    @TempDir
+    private Path directory;
+
+    /**
+     * <h3>
+     *   writer 스레드가 버퍼의 레코드를 파일에 기록하며 값은 마스킹된다.
+     * </h3>
+     */
+    @Test
+    void writesRedactedRecords() throws Exception {
+        // Given
+        final ViolationAuditSink sink = sink(properties(16, OverflowPolicy.DROP));
+        sink.start();
+
+        // When
+        sink.record("method", "createContact.createContact.uid", "NoEmoji",
+            "Emoji[\uD83D\uDE03] is not allowed", NO_EMOJI_TEMPLATE, "\uD83D\uDE03");
+        sink.stop();
+
+        // Then
+        final List<String> lines = Files.readAllLines(directory.resolve("audit.log"), StandardCharsets.UTF_8);
+        assertEquals(1, lines.size());
+        final String[] columns = lines.get(0).split("\t", -1);
+        assertEquals("createContact.createContact.uid", columns[2]);
+        assertEquals("NoEmoji", columns[3]);
+        assertEquals("Emoji[***(String, length=2)] is not allowed", columns[4]);
+        assertEquals("***(String, length=2)", columns[5]);
+        assertFalse(lines.get(0).contains("\uD83D\uDE03"));
+        assertEquals(1, sink.getWrittenCount());
+    }
+
+    /**
+     * <h3>
+     *   메시지 템플릿이 {@code ${validatedValue}}를 사용하지 않으면 메시지는 그대로 두고 값만 마스킹한다.
+     * </h3>
+     */
+    @Test
+    void keepsMessageWithoutValidatedValue() throws Exception {
+        // Given
+        final ViolationAuditSink sink = sink(properties(16, OverflowPolicy.DROP));
+        sink.start();
+
+        // When: 값 "6"이 메시지의 "64"에 포함되어 있다.
+        sink.record("request", "uid", "Size", "size must be between 0 and 64",
+            "{jakarta.validation.constraints.Size.message}", "6");
+        sink.record("request", "uid", "Size", "size must be between 0 and 64",
+            "size must be between {min} and {max}", "0");
+        sink.stop();
+
+        // Then
+        final List<String> lines = Files.readAllLines(directory.resolve("audit.log"), StandardCharsets.UTF_8);
+        assertEquals(2, lines.size());
+        for (String line : lines) {
+            final String[] columns = line.split("\t", -1);
+            assertEquals("size must be between 0 and 64", columns[4]);
+            assertEquals("***(String, length=1)", columns[5]);
+        }
+    }
+
+    /**
+     * <h3>
+     *   버퍼가 가득 차면 DROP 정책에 따라 버리고 dropped 카운터를 증가시킨다.
+     * </h3>
+     */
+    @Test
+    void dropsWhenFull() {
+        // Given: writer를 시작하지 않아 버퍼가 비워지지 않는다.
+        final ViolationAuditSink sink = sink(properties(4, OverflowPolicy.DROP));
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            sink.record("request", "uid", "NotBlank", "must not be blank", null, null);
+        }
+
+        // Then
+        assertEquals(4, sink.getEnqueuedCount());
+        assertEquals(6, sink.getDroppedCount());
+    }
+
+    /**
+     * <h3>
+     *   파일 크기가 maxFileSize를 넘으면 이전 파일을 audit.log.1로 밀어내며, 한 줄이 두 파일에 나뉘지 않는다.
+     * </h3>
+     */
+    @Test
+    void rollsFiles() throws Exception {
+        // Given
+        final ViolationAuditProperties properties = properties(1_024, OverflowPolicy.BLOCK);
+        properties.setMaxFileSize(DataSize.ofBytes(512));
+        properties.setMaxHistory(100);
+        final ViolationAuditSink sink = sink(properties);
+        sink.start();
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            sink.record("request", "uid", "Size", "size must be between 0 and 64", null, "value-" + i);
+        }
+        sink.stop();
+
+        // Then
+        assertEquals(100, sink.getWrittenCount());
+        assertTrue(Files.exists(directory.resolve("audit.log.1")));
+        final List<String> lines;
+        try (Stream<Path> files = Files.list(directory)) {
+            lines = files
+                .filter(file -> file.getFileName().toString().startsWith("audit.log"))
+                .flatMap(ViolationAuditSinkTest::readLines)
+                .toList();
+        }
+        assertEquals(100, lines.size());
+        lines.forEach(line -> assertEquals(6, line.split("\t", -1).length, line));
+    }
+
+    /**
+     * <h3>
+     *   BLOCK 정책은 blockTimeout 동안 빈 슬롯을 기다린 뒤에도 없으면 버린다.
+     * </h3>
+     */
+    @Test
+    void blockTimesOutThenDrops() {
+        // Given: writer를 시작하지 않아 버퍼가 비워지지 않는다.
+        final ViolationAuditProperties properties = properties(2, OverflowPolicy.BLOCK);
+        properties.setBlockTimeout(Duration.ofMillis(200));
+        final ViolationAuditSink sink = sink(properties);
+        sink.record("request", "uid", "NotBlank", "must not be blank", null, null);
+        sink.record("request", "uid", "NotBlank", "must not be blank", null, null);
+
+        // When
+        final long startedAt = System.nanoTime();
+        sink.record("request", "uid", "NotBlank", "must not be blank", null, null);
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // Then
+        assertTrue(elapsedMillis >= 200, "elapsed=" + elapsedMillis);
+        assertEquals(2, sink.getEnqueuedCount());
+        assertEquals(1, sink.getDroppedCount());
+    }
+
+    /**
+     * <h3>
+     *   BLOCK 정책으로 기다리는 동안 writer가 슬롯을 비우면 레코드를 받아들인다.
+     * </h3>
+     */
+    @Test
+    void blockAcceptsWhenSlotIsFreed() throws Exception {
+        // Given
+        final ViolationAuditProperties properties = properties(2, OverflowPolicy.BLOCK);
+        properties.setBlockTimeout(Duration.ofSeconds(10));
+        final ViolationAuditSink sink = sink(properties);
+        sink.record("request", "uid", "NotBlank", "must not be blank", null, null);
+        sink.record("request", "uid", "NotBlank", "must not be blank", null, null);
+        final Thread starter = new Thread(() -> {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100));
+            sink.start(); // writer가 버퍼를 비우기 시작한다.
+        });
+
+        // When
+        final long startedAt = System.nanoTime();
+        starter.start();
+        sink.record("request", "uid", "NotBlank", "must not be blank", null, null);
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        starter.join();
+        sink.stop();
+
+        // Then
+        assertTrue(elapsedMillis < 10_000, "elapsed=" + elapsedMillis);
+        assertEquals(3, sink.getEnqueuedCount());
+        assertEquals(0, sink.getDroppedCount());
+        assertEquals(3, sink.getWrittenCount());
+    }
+
+    /**
+     * <h3>
+     *   메시지 치환 여부는 locale별 원문으로 판단하며 먼저 들어온 요청의 locale에 좌우되지 않는다.
+     * </h3>
+     */
+    @Test
+    void redactsPerLocale() throws Exception {
+        // Given: 영어 원문은 값을 포함하지 않고 한국어 원문은 포함한다.
+        final StaticMessageSource messageSource = new StaticMessageSource();
+        messageSource.addMessage("custom.message", Locale.ENGLISH, "must not contain emoji");
+        messageSource.addMessage("custom.message", Locale.KOREAN, "${validatedValue}은(는) 사용할 수 없습니다");
+        final ViolationAuditSink sink = new ViolationAuditSink(properties(16, OverflowPolicy.DROP), messageSource);
+        sink.start();
+
+        // When
+        try {
+            LocaleContextHolder.setLocale(Locale.ENGLISH);
+            sink.record("request", "uid", "NoEmoji", "must not contain emoji", "{custom.message}", "secret");
+            LocaleContextHolder.setLocale(Locale.KOREAN);
+            sink.record("request", "uid", "NoEmoji", "secret은(는) 사용할 수 없습니다", "{custom.message}", "secret");
+        } finally {
+            LocaleContextHolder.resetLocaleContext();
+        }
+        sink.stop();
+
+        // Then
+        final List<String> lines = Files.readAllLines(directory.resolve("audit.log"), StandardCharsets.UTF_8);
+        assertEquals(2, lines.size());
+        assertEquals("must not contain emoji", lines.get(0).split("\t", -1)[4]);
+        assertEquals("***(String, length=6)은(는) 사용할 수 없습니다", lines.get(1).split("\t", -1)[4]);
+        assertFalse(String.join("\n", lines).contains("secret"));
+    }
+
+    private ViolationAuditSink sink(ViolationAuditProperties properties) {
+        final StaticMessageSource messageSource = new StaticMessageSource();
+        messageSource.addMessage(NO_EMOJI_TEMPLATE.substring(1, NO_EMOJI_TEMPLATE.length() - 1), Locale.getDefault(),
+            "Emoji[${validatedValue}] is not allowed");
+        return new ViolationAuditSink(properties, messageSource);
+    }
+
+    private static Stream<String> readLines(Path file) {
+        try {
+            return Files.readAllLines(file, StandardCharsets.UTF_8).stream();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ViolationAuditProperties properties(int bufferSize, OverflowPolicy overflowPolicy) {
+        final ViolationAuditProperties properties = new ViolationAuditProperties();
+        properties.setDirectory(directory);
+        properties.setFileName("audit.log");
+        properties.setBufferSize(bufferSize);
+        properties.setOverflowPolicy(overflowPolicy);
+        properties.setMaxHistory(2);
+        return properties;
+    }
+}
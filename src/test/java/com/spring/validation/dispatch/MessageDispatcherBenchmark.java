@@ -0,0 +1,98 @@
+package com.spring.validation.dispatch;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.spring.validation.enums.MessageType;
+import com.spring.validation.model.Message;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * <h3>
+ *   batchSize별 {@link MessageDispatcher}의 처리량과 지연 시간 측정
+ * </h3>
+ *
+ * <ul>
+ *   <li>
+ *     {@code ./gradlew benchmark}로 실행하며 일반 {@code test} 태스크에서는 제외된다.
+ *   </li>
+ *   <li>
+ *     sender는 묶음마다 {@value #SEND_LATENCY_MICROS}us를 소비하는 블로킹 발송을 흉내낸다.
+ *   </li>
+ *   <li>
+ *     지연 시간은 {@code dispatch()} 호출부터 sender가 메시지를 받을 때까지의 시간이다.
+ *   </li>
+ * </ul>
+ */
+@Slf4j
+@Tag("benchmark")
+class MessageDispatcherBenchmark {
+    private static final int MESSAGES = 200_000;
+    private static final int PRODUCERS = 4;
+    private static final long SEND_LATENCY_MICROS = 200;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100, 500, 1_000})
+    void throughputAndLatency(int batchSize) throws Exception {
+        final MessageDispatchProperties properties = new MessageDispatchProperties();
+        properties.setBatchSize(batchSize);
+        properties.setLingerTime(Duration.ofMillis(5));
+        properties.setOfferTimeout(Duration.ofSeconds(30));
+
+        final Message[] messages = new Message[MESSAGES];
+        for (int i = 0; i < MESSAGES; i++) {
+            messages[i] = Message.builder().title(String.valueOf(i)).body("body").build();
+        }
+        final long[] dispatchedAt = new long[MESSAGES];
+        final long[] latencies = new long[MESSAGES];
+        final CountDownLatch received = new CountDownLatch(MESSAGES);
+        final MessageDispatcher dispatcher = new MessageDispatcher(properties, (type, batch) -> {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(SEND_LATENCY_MICROS));
+            final long now = System.nanoTime();
+            for (Message message : batch) {
+                final int index = Integer.parseInt(message.getTitle());
+                latencies[index] = now - dispatchedAt[index];
+                received.countDown();
+            }
+        });
+        dispatcher.start();
+
+        final ExecutorService producers = Executors.newFixedThreadPool(PRODUCERS);
+        final long startedAt = System.nanoTime();
+        for (int p = 0; p < PRODUCERS; p++) {
+            final int offset = p;
+            producers.execute(() -> {
+                for (int i = offset; i < MESSAGES; i += PRODUCERS) {
+                    dispatchedAt[i] = System.nanoTime();
+                    dispatcher.dispatch(i % 10 == 0 ? MessageType.AD : MessageType.NORMAL, messages[i]);
+                }
+            });
+        }
+        final boolean completed = received.await(5, TimeUnit.MINUTES);
+        final long elapsed = System.nanoTime() - startedAt;
+        producers.shutdown();
+        dispatcher.stop();
+        assertTrue(completed, () -> "batchSize=" + batchSize + ": " + received.getCount() + " messages were not sent in time");
+
+        Arrays.sort(latencies);
+        log.info("batchSize={} throughput={} msg/s p50={}us p99={}us max={}us",
+            batchSize,
+            MESSAGES * TimeUnit.SECONDS.toNanos(1) / elapsed,
+            TimeUnit.NANOSECONDS.toMicros(percentile(latencies, 0.50)),
+            TimeUnit.NANOSECONDS.toMicros(percentile(latencies, 0.99)),
+            TimeUnit.NANOSECONDS.toMicros(latencies[latencies.length - 1]));
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)];
+    }
+}
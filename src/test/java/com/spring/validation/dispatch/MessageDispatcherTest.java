@@ -0,0 +1,127 @@
+package com.spring.validation.dispatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.spring.validation.enums.MessageType;
+import com.spring.validation.model.Message;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class MessageDispatcherTest {
+    /**
+     * <h3>
+     *   batchSize만큼 쌓이면 lingerTime을 기다리지 않고 묶음으로 발송한다.
+     * </h3>
+     */
+    @Test
+    void batchBySize() {
+        // Given
+        final MessageDispatchProperties properties = properties(Duration.ofSeconds(30), 1_000);
+        properties.setBatchSize(100);
+        final StubMessageSender sender = new StubMessageSender();
+        final MessageDispatcher dispatcher = new MessageDispatcher(properties, sender);
+        dispatcher.start();
+
+        // When
+        for (int i = 0; i < 300; i++) {
+            dispatcher.dispatch(MessageType.NORMAL, message(i));
+        }
+        dispatcher.stop();
+
+        // Then
+        assertEquals(300, sender.getMessageCount(MessageType.NORMAL));
+        assertEquals(3, sender.getBatchCount(MessageType.NORMAL));
+        assertEquals(0, sender.getMessageCount(MessageType.AD));
+    }
+
+    /**
+     * <h3>
+     *   batchSize가 차지 않아도 lingerTime이 지나면 발송한다.
+     * </h3>
+     */
+    @Test
+    void batchByTime() throws Exception {
+        // Given
+        final CountDownLatch sent = new CountDownLatch(3);
+        final MessageDispatcher dispatcher = new MessageDispatcher(properties(Duration.ofMillis(5), 1_000),
+            (type, messages) -> messages.forEach(message -> sent.countDown()));
+        dispatcher.start();
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            dispatcher.dispatch(MessageType.AD, message(i));
+        }
+
+        // Then: batchSize(500)에 한참 못 미쳐도 발송된다.
+        assertTrue(sent.await(1, TimeUnit.SECONDS));
+        dispatcher.stop();
+        assertEquals(3, dispatcher.getSentMessageCount(MessageType.AD));
+    }
+
+    /**
+     * <h3>
+     *   큐가 가득 차면 offerTimeout 후 {@link RejectedExecutionException}으로 호출자에게 알린다. (backpressure)
+     * </h3>
+     */
+    @Test
+    void backpressure() throws Exception {
+        // Given: sender가 멈춰 있어 큐가 비워지지 않는다.
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch sending = new CountDownLatch(1);
+        final MessageDispatchProperties properties = properties(Duration.ZERO, 2);
+        final MessageDispatcher dispatcher = new MessageDispatcher(properties, (type, messages) -> {
+            sending.countDown();
+            await(release);
+        });
+        dispatcher.start();
+        dispatcher.dispatch(MessageType.NORMAL, message(0));
+        assertTrue(sending.await(1, TimeUnit.SECONDS));
+
+        // When
+        dispatcher.dispatch(MessageType.NORMAL, message(1));
+        dispatcher.dispatch(MessageType.NORMAL, message(2));
+
+        // Then
+        assertThrows(RejectedExecutionException.class, () -> dispatcher.dispatch(MessageType.NORMAL, message(3)));
+        assertEquals(1, dispatcher.getRejectedMessageCount(MessageType.NORMAL));
+        release.countDown();
+        dispatcher.stop();
+        assertEquals(3, dispatcher.getSentMessageCount(MessageType.NORMAL));
+    }
+
+    @Test
+    void rejectWhenNotRunning() {
+        final MessageDispatcher dispatcher = new MessageDispatcher(properties(Duration.ZERO, 1), new StubMessageSender());
+
+        assertThrows(RejectedExecutionException.class, () -> dispatcher.dispatch(MessageType.AD, message(0)));
+    }
+
+    private static MessageDispatchProperties properties(Duration lingerTime, int queueCapacity) {
+        final MessageDispatchProperties properties = new MessageDispatchProperties();
+        properties.setLingerTime(lingerTime);
+        properties.setOfferTimeout(Duration.ofMillis(10));
+        properties.setNormal(new MessageDispatchProperties.Lane(1, queueCapacity));
+        properties.setAd(new MessageDispatchProperties.Lane(1, queueCapacity));
+        return properties;
+    }
+
+    private static Message message(int index) {
+        return Message.builder()
+            .title("title-" + index)
+            .body("body")
+            .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.spring.validation.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.spring.validation.loadtest.OpenModelLoadGenerator.Payload;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+/**
+ * <h3>
+ *   실제 Tomcat, Jackson, {@code @Valid}, {@code GlobalExceptionHandler}를 거치는 {@code POST /contacts} 부하 테스트
+ * </h3>
+ *
+ * <ol>
+ *   <li>
+ *     {@code ./gradlew loadTest}로 실행하며 일반 {@code test} 태스크에서는 제외된다.
+ *   </li>
+ *   <li>
+ *     애플리케이션을 임의의 포트로 띄우고 {@link OpenModelLoadGenerator}로 요청률(loadTest.rates)마다 부하를 준다.<br>
+ *     예제) {@code ./gradlew loadTest -PloadTest.rates=200,1000 -PloadTest.duration=30s -PloadTest.mix=80,15,5}
+ *   </li>
+ *   <li>
+ *     결과는 {@code build/reports/load-test}에 {@link LoadTestReport}로 남는다.<br>
+ *     {@code -PloadTest.baseline=<이전 보고서>}를 주면 비교 후 loadTest.maxRegression(기본 0.1)을 넘는 회귀가 있을 때 실패한다.<br>
+ *     loadTest.latencyNoiseFloor(기본 50us) 이하의 지연 시간 차이는 무시하며, 측정 조건이 다르면 실패한다.
+ *   </li>
+ *   <li>
+ *     요청률마다 모든 응답을 받아야 하며, 전송 오류와 보내지 못한 요청의 비율은 loadTest.maxErrorRate(기본 0)를 넘으면 안 된다.
+ *   </li>
+ * </ol>
+ */
+@Slf4j
+@Tag("loadTest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ContactLoadTest {
+    private static final Payload VALID = new Payload("valid",
+        "{\"uid\":\"user-1\",\"contactType\":\"PHONE_NUMBER\",\"contact\":\"000\"}", 200);
+    private static final Payload INVALID = new Payload("invalid",
+        "{\"uid\":null,\"contactType\":\"PHONE_NUMBER\",\"contact\":\"000\"}", 400);
+    private static final Payload EMOJI = new Payload("emoji",
+        "{\"uid\":\"\uD83D\uDE03\",\"contactType\":\"PHONE_NUMBER\",\"contact\":\"000\"}", 400);
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void createContact() throws Exception {
+        // Given
+        final List<Integer> rates = Arrays.stream(property("loadTest.rates", "100,500,1000").split(","))
+            .map(String::trim)
+            .map(Integer::valueOf)
+            .toList();
+        final Duration duration = DurationStyle.detectAndParse(property("loadTest.duration", "10s"));
+        final Duration warmup = DurationStyle.detectAndParse(property("loadTest.warmup", "5s"));
+        final String mix = property("loadTest.mix", "60,30,10");
+        final Path reportDir = Path.of(property("loadTest.reportDir", "build/reports/load-test"));
+        final String baseline = property("loadTest.baseline", "");
+        final double maxRegression = Double.parseDouble(property("loadTest.maxRegression", "0.1"));
+        final Duration latencyNoiseFloor = DurationStyle.detectAndParse(property("loadTest.latencyNoiseFloor", "50us"));
+        final double maxErrorRate = Double.parseDouble(property("loadTest.maxErrorRate", "0"));
+
+        final Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("rates", rates);
+        settings.put("duration", duration.toString());
+        settings.put("warmup", warmup.toString());
+        settings.put("mix", mix);
+        settings.put("maxErrorRate", maxErrorRate);
+
+        // When
+        final List<LoadResult> results = new ArrayList<>();
+        try (OpenModelLoadGenerator generator = new OpenModelLoadGenerator(
+            URI.create("http://localhost:" + port + "/contacts"), mix(mix))) {
+            generator.run(rates.get(0), warmup); // JIT, 커넥션 풀 예열 결과는 버린다.
+            for (int rate : rates) {
+                final LoadResult result = generator.run(rate, duration);
+                log.info("{} rps: throughput={} req/s p50={}us p99={}us p99.9={}us transportErrors={} overflow={}",
+                    rate, String.format("%.1f", result.getThroughput()),
+                    result.getLatency().getValueAtPercentile(50.0),
+                    result.getLatency().getValueAtPercentile(99.0),
+                    result.getLatency().getValueAtPercentile(99.9),
+                    result.getTransportErrors(), result.getOverflow());
+                results.add(result);
+            }
+        }
+
+        // Then
+        final LoadTestReport report = new LoadTestReport(settings, results);
+        final List<String> regressions = baseline.isEmpty()
+            ? List.of()
+            : report.compareWith(Path.of(baseline), maxRegression, latencyNoiseFloor.toNanos() / 1_000); // latest.json을 덮어쓰기 전에 비교한다.
+        log.info("Load test report: {}", report.write(reportDir).toAbsolutePath());
+
+        for (LoadResult result : results) {
+            final String rate = result.getTargetRate() + " rps: ";
+            assertTrue(result.isComplete(), rate + result.getInFlightAtEnd() + " requests still in flight");
+            assertTrue(result.getCompleted() > 0, rate + "no request completed");
+            assertEquals(0, result.getUnexpectedStatus(), rate + "unexpected status");
+            assertTrue(result.getErrorRate() <= maxErrorRate, () -> rate + "error rate " + result.getErrorRate()
+                + " (transportErrors=" + result.getTransportErrors() + ", overflow=" + result.getOverflow() + ")");
+        }
+        assertTrue(regressions.isEmpty(), () -> "Regression against " + baseline + "\n" + String.join("\n", regressions));
+    }
+
+    private static Map<Payload, Integer> mix(String mix) {
+        final String[] weights = mix.split(",");
+        if (weights.length != 3) {
+            throw new IllegalArgumentException("loadTest.mix must be 'valid,invalid,emoji' weights: " + mix);
+        }
+        final Map<Payload, Integer> payloads = new LinkedHashMap<>();
+        payloads.put(VALID, Integer.parseInt(weights[0].trim()));
+        payloads.put(INVALID, Integer.parseInt(weights[1].trim()));
+        payloads.put(EMOJI, Integer.parseInt(weights[2].trim()));
+        return payloads;
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty(name, defaultValue);
+    }
+}
@@ -0,0 +1,38 @@
+package com.spring.validation.loadtest;
+
+import java.util.Map;
+import lombok.Builder;
+import lombok.Getter;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 한 요청률(rate) 단계의 측정 결과
+ * 지연 시간은 microsecond 단위로 기록되어 있다.
+ */
+@Builder
+@Getter
+public class LoadResult {
+    private final int targetRate;
+    private final long sendWindowMillis; // 요청을 보낸 구간, 남은 응답을 기다린 시간은 제외한다.
+    private final long scheduled;
+    private final long completed;
+    private final long completedInWindow; // send window 안에 완료된 응답
+    private final long transportErrors; // 연결 실패, 타임아웃
+    private final long unexpectedStatus; // 기대한 상태 코드(200/400)가 아닌 응답
+    private final long overflow; // in-flight 한도를 넘어 보내지 못한 요청
+    private final boolean complete; // false면 제한 시간 안에 모든 응답을 받지 못했다.
+    private final long inFlightAtEnd;
+    private final Histogram latency;
+    private final Map<String, Histogram> latencyByPayload;
+
+    public double getThroughput() {
+        return sendWindowMillis == 0 ? 0 : completedInWindow * 1_000.0 / sendWindowMillis;
+    }
+
+    /**
+     * 전송 오류와 보내지 못한 요청의 비율
+     */
+    public double getErrorRate() {
+        return scheduled == 0 ? 0 : (double) (transportErrors + overflow) / scheduled;
+    }
+}
@@ -0,0 +1,183 @@
+package com.spring.validation.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.HdrHistogram.Histogram;
+
+/**
+ * <h3>
+ *   부하 테스트 결과 보고서
+ * </h3>
+ *
+ * <ul>
+ *   <li>
+ *     {@code load-test-<timestamp>.json}과 {@code latest.json}에 요청률별 처리량, p50/p90/p99/p99.9/max 지연 시간을 기록한다.
+ *   </li>
+ *   <li>
+ *     요청률별 전체 지연 분포는 HdrHistogram 형식의 {@code .hgrm} 파일로 남긴다. (단위: ms)
+ *   </li>
+ *   <li>
+ *     {@link #compareWith(Path, double, long)}로 이전 보고서와 비교해 회귀 여부를 확인할 수 있다.
+ *   </li>
+ * </ul>
+ */
+public class LoadTestReport {
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+    private static final double ERROR_RATE_NOISE_FLOOR = 0.001;
+    // 이 값이 다르면 같은 조건의 측정이 아니므로 비교하지 않고 실패시킨다.
+    private static final List<String> COMPARED_SETTINGS = List.of("mix", "duration", "warmup");
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final Instant createdAt = Instant.now();
+    private final Map<String, Object> settings;
+    private final List<LoadResult> results;
+
+    public LoadTestReport(Map<String, Object> settings, List<LoadResult> results) {
+        this.settings = settings;
+        this.results = results;
+    }
+
+    /**
+     * @return 기록한 JSON 보고서 경로
+     */
+    public Path write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        final String name = "load-test-" + FILE_TIMESTAMP.format(createdAt);
+        final Path report = directory.resolve(name + ".json");
+        final Map<String, Object> json = toJson();
+        objectMapper.writeValue(report.toFile(), json);
+        objectMapper.writeValue(directory.resolve("latest.json").toFile(), json);
+        for (LoadResult result : results) {
+            try (PrintStream out = new PrintStream(
+                Files.newOutputStream(directory.resolve(name + "-" + result.getTargetRate() + "rps.hgrm")), true, StandardCharsets.UTF_8)) {
+                result.getLatency().outputPercentileDistribution(out, 1_000.0);
+            }
+        }
+        return report;
+    }
+
+    /**
+     * 같은 요청률끼리 비교하여 p99, p99.9 지연 시간이 maxRegression 비율보다 늘었거나
+     * 처리량이 그만큼 줄었거나, 오류율(전송 오류 + 보내지 못한 요청)이 늘었으면 회귀로 판단한다.
+     * 지연 시간 차이가 latencyNoiseFloorMicros 이하이면 측정 오차로 보고 무시한다.
+     * 측정 조건(mix, duration, warmup, availableProcessors)이 다르면 비교 결과를 믿을 수 없으므로 그 자체를 실패로 본다.
+     *
+     * @return 회귀 내역, 없으면 빈 List
+     */
+    public List<String> compareWith(Path baseline, double maxRegression, long latencyNoiseFloorMicros) throws IOException {
+        final JsonNode baselineReport = objectMapper.readTree(baseline.toFile());
+        final List<String> regressions = new ArrayList<>();
+        for (String name : COMPARED_SETTINGS) {
+            final JsonNode previous = baselineReport.path("settings").path(name);
+            final JsonNode current = objectMapper.valueToTree(settings.get(name));
+            if (!previous.equals(current)) {
+                regressions.add(String.format("settings.%s differs from baseline: %s -> %s", name, previous, current));
+            }
+        }
+        final int previousProcessors = baselineReport.path("availableProcessors").asInt();
+        if (previousProcessors != Runtime.getRuntime().availableProcessors()) {
+            regressions.add(String.format("availableProcessors differs from baseline: %d -> %d",
+                previousProcessors, Runtime.getRuntime().availableProcessors()));
+        }
+
+        final JsonNode baselineResults = baselineReport.path("results");
+        for (LoadResult result : results) {
+            final JsonNode previous = find(baselineResults, result.getTargetRate());
+            if (previous == null) {
+                continue;
+            }
+            final Histogram latency = result.getLatency();
+            checkLatency(regressions, result.getTargetRate(), "p99", previous.path("latencyMicros").path("p99").asLong(),
+                latency.getValueAtPercentile(99.0), maxRegression, latencyNoiseFloorMicros);
+            checkLatency(regressions, result.getTargetRate(), "p99.9", previous.path("latencyMicros").path("p99.9").asLong(),
+                latency.getValueAtPercentile(99.9), maxRegression, latencyNoiseFloorMicros);
+            final double previousThroughput = previous.path("throughput").asDouble();
+            if (result.getThroughput() < previousThroughput * (1 - maxRegression)) {
+                regressions.add(String.format("%d rps: throughput %.1f -> %.1f req/s",
+                    result.getTargetRate(), previousThroughput, result.getThroughput()));
+            }
+            final double previousErrorRate = previous.path("errorRate").asDouble();
+            if (result.getErrorRate() - previousErrorRate > ERROR_RATE_NOISE_FLOOR
+                && result.getErrorRate() > previousErrorRate * (1 + maxRegression)) {
+                regressions.add(String.format("%d rps: error rate %.4f -> %.4f (transportErrors=%d, overflow=%d)",
+                    result.getTargetRate(), previousErrorRate, result.getErrorRate(),
+                    result.getTransportErrors(), result.getOverflow()));
+            }
+        }
+        return regressions;
+    }
+
+    private Map<String, Object> toJson() {
+        final List<Map<String, Object>> resultsJson = new ArrayList<>();
+        for (LoadResult result : results) {
+            final Map<String, Object> byPayload = new LinkedHashMap<>();
+            result.getLatencyByPayload().forEach((payload, histogram) -> byPayload.put(payload, percentiles(histogram)));
+
+            final Map<String, Object> resultJson = new LinkedHashMap<>();
+            resultJson.put("targetRate", result.getTargetRate());
+            resultJson.put("sendWindowMillis", result.getSendWindowMillis());
+            resultJson.put("complete", result.isComplete());
+            resultJson.put("inFlightAtEnd", result.getInFlightAtEnd());
+            resultJson.put("scheduled", result.getScheduled());
+            resultJson.put("completed", result.getCompleted());
+            resultJson.put("completedInWindow", result.getCompletedInWindow());
+            resultJson.put("transportErrors", result.getTransportErrors());
+            resultJson.put("unexpectedStatus", result.getUnexpectedStatus());
+            resultJson.put("overflow", result.getOverflow());
+            resultJson.put("errorRate", result.getErrorRate());
+            resultJson.put("throughput", result.getThroughput());
+            resultJson.put("latencyMicros", percentiles(result.getLatency()));
+            resultJson.put("latencyMicrosByPayload", byPayload);
+            resultsJson.add(resultJson);
+        }
+
+        final Map<String, Object> json = new LinkedHashMap<>();
+        json.put("createdAt", createdAt.toString());
+        json.put("javaVersion", System.getProperty("java.version"));
+        json.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        json.put("settings", settings);
+        json.put("results", resultsJson);
+        return json;
+    }
+
+    private static Map<String, Object> percentiles(Histogram histogram) {
+        final Map<String, Object> json = new LinkedHashMap<>();
+        json.put("count", histogram.getTotalCount());
+        json.put("mean", histogram.getMean());
+        json.put("p50", histogram.getValueAtPercentile(50.0));
+        json.put("p90", histogram.getValueAtPercentile(90.0));
+        json.put("p99", histogram.getValueAtPercentile(99.0));
+        json.put("p99.9", histogram.getValueAtPercentile(99.9));
+        json.put("max", histogram.getMaxValue());
+        return json;
+    }
+
+    private static JsonNode find(JsonNode baselineResults, int targetRate) {
+        for (JsonNode previous : baselineResults) {
+            if (previous.path("targetRate").asInt() == targetRate) {
+                return previous;
+            }
+        }
+        return null;
+    }
+
+    private static void checkLatency(List<String> regressions, int targetRate, String percentile,
+        long previous, long current, double maxRegression, long latencyNoiseFloorMicros) {
+        if (current - previous > latencyNoiseFloorMicros && current > previous * (1 + maxRegression)) {
+            regressions.add(String.format("%d rps: %s latency %dus -> %dus", targetRate, percentile, previous, current));
+        }
+    }
+}
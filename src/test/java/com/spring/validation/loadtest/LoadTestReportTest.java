@@ -0,0 +1,102 @@
+package com.spring.validation.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LoadTestReportTest {
+    private static final Map<String, Object> SETTINGS = Map.of("mix", "60,30,10", "duration", "PT10S", "warmup", "PT5S");
+    private static final long NOISE_FLOOR_MICROS = 50;
+
+    @TempDir
+    private Path directory;
+
+    private Path baseline;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // 기준: p99 500us, 1,000 req/s, 오류 없음
+        baseline = new LoadTestReport(SETTINGS, List.of(result(500, 1_000, 0))).write(directory);
+    }
+
+    @Test
+    void noRegression() throws Exception {
+        assertEquals(List.of(), compare(SETTINGS, result(500, 1_000, 0)));
+    }
+
+    /**
+     * <h3>
+     *   1ms보다 작은 지연 시간이라도 maxRegression과 noise floor를 넘으면 회귀로 판단한다.
+     * </h3>
+     */
+    @Test
+    void latencyRegression() throws Exception {
+        final List<String> regressions = compare(SETTINGS, result(900, 1_000, 0));
+
+        assertEquals(2, regressions.size());
+        assertTrue(regressions.get(0).contains("p99 latency"), regressions.get(0));
+        assertTrue(regressions.get(1).contains("p99.9 latency"), regressions.get(1));
+    }
+
+    @Test
+    void latencyWithinNoiseFloor() throws Exception {
+        final LoadTestReport report = new LoadTestReport(SETTINGS, List.of(result(560, 1_000, 0)));
+
+        assertEquals(List.of(), report.compareWith(baseline, 0.1, 100));
+    }
+
+    @Test
+    void throughputRegression() throws Exception {
+        final List<String> regressions = compare(SETTINGS, result(500, 800, 0));
+
+        assertEquals(1, regressions.size());
+        assertTrue(regressions.get(0).contains("throughput"), regressions.get(0));
+    }
+
+    @Test
+    void errorRateRegression() throws Exception {
+        final List<String> regressions = compare(SETTINGS, result(500, 1_000, 50));
+
+        assertEquals(1, regressions.size());
+        assertTrue(regressions.get(0).contains("error rate"), regressions.get(0));
+    }
+
+    @Test
+    void settingsMismatch() throws Exception {
+        final List<String> regressions = compare(
+            Map.of("mix", "80,15,5", "duration", "PT10S", "warmup", "PT5S"), result(500, 1_000, 0));
+
+        assertEquals(1, regressions.size());
+        assertTrue(regressions.get(0).startsWith("settings.mix"), regressions.get(0));
+    }
+
+    private List<String> compare(Map<String, Object> settings, LoadResult result) throws Exception {
+        return new LoadTestReport(settings, List.of(result)).compareWith(baseline, 0.1, NOISE_FLOOR_MICROS);
+    }
+
+    /**
+     * 1초 동안 1,000건을 보내고 모든 지연 시간이 latencyMicros인 결과
+     */
+    private static LoadResult result(long latencyMicros, long completedInWindow, long transportErrors) {
+        final Histogram latency = new Histogram(3);
+        latency.recordValueWithCount(latencyMicros, 1_000);
+        return LoadResult.builder()
+            .targetRate(1_000)
+            .sendWindowMillis(1_000)
+            .scheduled(1_000)
+            .completed(1_000 - transportErrors)
+            .completedInWindow(completedInWindow)
+            .transportErrors(transportErrors)
+            .complete(true)
+            .latency(latency)
+            .latencyByPayload(Map.of("valid", latency))
+            .build();
+    }
+}
@@ -0,0 +1,174 @@
+package com.spring.validation.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * <h3>
+ *   open model 부하 생성기
+ * </h3>
+ *
+ * <ul>
+ *   <li>
+ *     응답을 기다리지 않고 정해진 요청률(rate)로 요청을 보낸다. 서버가 느려져도 요청 간격은 변하지 않는다.
+ *   </li>
+ *   <li>
+ *     지연 시간은 실제 전송 시각이 아닌 <b>예정된 전송 시각</b>부터 잰다.
+ *     생성기 스레드가 밀린 시간까지 포함되므로 coordinated omission으로 꼬리 지연이 가려지지 않는다.
+ *   </li>
+ *   <li>
+ *     in-flight 한도를 넘어 보내지 못한 요청은 요청 타임아웃 값으로, 전송 오류는 오류까지 걸린 시간으로 히스토그램에 기록한다.
+ *   </li>
+ *   <li>
+ *     처리량은 요청을 보내는 구간(send window) 안에 완료된 응답만으로 계산한다.
+ *   </li>
+ *   <li>
+ *     payload 종류(valid, invalid, emoji)는 mix 비율대로 고정된 seed로 섞어서 실행마다 순서가 같다.
+ *   </li>
+ * </ul>
+ */
+public class OpenModelLoadGenerator implements AutoCloseable {
+    private static final int MAX_IN_FLIGHT = 10_000;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final URI uri;
+    private final List<Payload> schedule;
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+    private final HttpClient client;
+
+    public OpenModelLoadGenerator(URI uri, Map<Payload, Integer> mix) {
+        this.uri = uri;
+        this.schedule = schedule(mix);
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(executor)
+            .build();
+    }
+
+    public LoadResult run(int ratePerSecond, Duration duration) throws InterruptedException {
+        final Histogram latency = new ConcurrentHistogram(3);
+        final Map<String, Histogram> latencyByPayload = new LinkedHashMap<>();
+        schedule.forEach(payload -> latencyByPayload.computeIfAbsent(payload.name(), name -> new ConcurrentHistogram(3)));
+        final LongAdder completed = new LongAdder();
+        final LongAdder completedInWindow = new LongAdder();
+        final LongAdder transportErrors = new LongAdder();
+        final LongAdder unexpectedStatus = new LongAdder();
+        final LongAdder overflow = new LongAdder();
+        final AtomicLong sendWindowEnd = new AtomicLong(Long.MAX_VALUE);
+        final Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+        final long timeoutMicros = TimeUnit.MILLISECONDS.toMicros(REQUEST_TIMEOUT.toMillis());
+
+        final long total = ratePerSecond * duration.toMillis() / 1_000;
+        final double intervalNanos = TimeUnit.SECONDS.toNanos(1) / (double) ratePerSecond;
+        final long startedAt = System.nanoTime();
+        for (long i = 0; i < total; i++) {
+            final long intendedAt = startedAt + (long) (i * intervalNanos);
+            final long wait = intendedAt - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            final Payload payload = schedule.get((int) (i % schedule.size()));
+            if (!inFlight.tryAcquire()) {
+                // 보내지 못한 요청도 빼면 포화 구간의 가장 느린 표본이 사라지므로 타임아웃으로 기록한다.
+                overflow.increment();
+                latency.recordValue(timeoutMicros);
+                latencyByPayload.get(payload.name()).recordValue(timeoutMicros);
+                continue;
+            }
+            client.sendAsync(request(payload), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    final long now = System.nanoTime();
+                    final long micros = TimeUnit.NANOSECONDS.toMicros(now - intendedAt);
+                    latency.recordValue(micros); // 실패한 요청도 실패를 확인하기까지 걸린 시간으로 기록한다.
+                    latencyByPayload.get(payload.name()).recordValue(micros);
+                    if (error != null) {
+                        transportErrors.increment();
+                    } else {
+                        completed.increment();
+                        if (now <= sendWindowEnd.get()) {
+                            completedInWindow.increment();
+                        }
+                        if (response.statusCode() != payload.expectedStatus()) {
+                            unexpectedStatus.increment();
+                        }
+                    }
+                    inFlight.release();
+                });
+        }
+        final long sendWindowNanos = System.nanoTime() - startedAt;
+        sendWindowEnd.set(startedAt + sendWindowNanos);
+
+        // 남은 응답을 기다린다. 시간 안에 끝나지 않으면 결과를 미완료로 표시하고,
+        // 이후 도착하는 응답이 보고서를 바꾸지 않도록 히스토그램은 복사본을 넘긴다.
+        final boolean drained = inFlight.tryAcquire(MAX_IN_FLIGHT, REQUEST_TIMEOUT.toMillis() * 2, TimeUnit.MILLISECONDS);
+        final Map<String, Histogram> latencyByPayloadSnapshot = new LinkedHashMap<>();
+        latencyByPayload.forEach((name, histogram) -> latencyByPayloadSnapshot.put(name, histogram.copy()));
+
+        return LoadResult.builder()
+            .targetRate(ratePerSecond)
+            .sendWindowMillis(TimeUnit.NANOSECONDS.toMillis(sendWindowNanos))
+            .scheduled(total)
+            .completed(completed.sum())
+            .completedInWindow(completedInWindow.sum())
+            .transportErrors(transportErrors.sum())
+            .unexpectedStatus(unexpectedStatus.sum())
+            .overflow(overflow.sum())
+            .complete(drained)
+            .inFlightAtEnd(drained ? 0 : MAX_IN_FLIGHT - inFlight.availablePermits())
+            .latency(latency.copy())
+            .latencyByPayload(latencyByPayloadSnapshot)
+            .build();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private HttpRequest request(Payload payload) {
+        return HttpRequest.newBuilder(uri)
+            .timeout(REQUEST_TIMEOUT)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(payload.body()))
+            .build();
+    }
+
+    /**
+     * payload를 가중치만큼 채운 뒤 고정된 seed로 섞는다.
+     */
+    private static List<Payload> schedule(Map<Payload, Integer> mix) {
+        final List<Payload> schedule = new ArrayList<>();
+        mix.forEach((payload, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                schedule.add(payload);
+            }
+        });
+        if (schedule.isEmpty()) {
+            throw new IllegalArgumentException("mix must contain at least one positive weight: " + mix);
+        }
+        Collections.shuffle(schedule, new Random(42));
+        return schedule;
+    }
+
+    public record Payload(String name, String body, int expectedStatus) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.spring.validation.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.spring.validation.dispatch.MessageDispatcher;
+import com.spring.validation.dispatch.MessageSender;
+import com.spring.validation.enums.MessageType;
+import com.spring.validation.model.Message;
+import jakarta.validation.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+@SpringBootTest
+class MessageServiceTest {
+    @Autowired
+    private MessageService messageService;
+
+    @Autowired
+    private MessageDispatcher messageDispatcher;
+
+    @MockBean
+    private MessageSender messageSender;
+
+    /**
+     * <h3>
+     *   {@code sendMessage(Message, boolean)}도 Proxy를 통해 호출하므로 유효성 검사에 실패한 메시지는 발송되지 않는다.
+     * </h3>
+     */
+    @Test
+    void invalidMessageNeverReachesSender() {
+        // Given
+        final Message message = Message.builder()
+            .title("title")
+            .build(); // body가 비어 있다.
+
+        // When & Then
+        assertThrows(ConstraintViolationException.class, () -> messageService.sendMessage(message, false));
+        assertThrows(ConstraintViolationException.class, () -> messageService.sendMessage(message, true));
+        assertEquals(0, messageDispatcher.getQueueSize(MessageType.NORMAL));
+        assertEquals(0, messageDispatcher.getQueueSize(MessageType.AD));
+        verify(messageSender, never()).send(any(), anyList());
+    }
+
+    @Test
+    void validMessageReachesSender() {
+        // Given
+        final Message message = Message.builder()
+            .title("title")
+            .body("body")
+            .build();
+
+        // When
+        messageService.sendMessage(message, false);
+
+        // Then
+        verify(messageSender, timeout(1_000)).send(eq(MessageType.NORMAL), anyList());
+    }
+}
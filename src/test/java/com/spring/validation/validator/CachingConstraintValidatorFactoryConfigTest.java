@@ -0,0 +1,85 @@
+package com.spring.validation.validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.spring.validation.enums.ContactType;
+import com.spring.validation.model.CreateContact;
+import com.spring.validation.service.ContactService;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+@AutoConfigureMockMvc
+@SpringBootTest
+class CachingConstraintValidatorFactoryConfigTest {
+    @Autowired
+    private CachingConstraintValidatorFactory constraintValidatorFactory;
+
+    @Autowired
+    private LocalValidatorFactoryBean defaultValidator;
+
+    @Autowired
+    private ContactService contactService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    /**
+     * <h3>
+     *   Spring Boot의 {@code defaultValidator}와 Controller, Service의 유효성 검사가
+     *   {@link CachingConstraintValidatorFactory}를 사용한다.
+     * </h3>
+     *
+     * <ol>
+     *   <li>
+     *     Hibernate Validator는 하나의 {@link ValidatorFactory} 안에서 제약 조건별로 검사기를 캐시하므로
+     *     같은 Validator로 반복 호출하면 factory까지 오지 않는다.
+     *   </li>
+     *   <li>
+     *     같은 factory를 사용하는 다른 {@link ValidatorFactory}(정책별, 테스트별 등)는 캐시에서 검사기를 받아 간다.
+     *   </li>
+     * </ol>
+     */
+    @Test
+    void installedIntoDefaultValidator() throws Exception {
+        // Given
+        final CreateContact createContact = CreateContact.builder()
+            .uid("\uD83D\uDE03") // 😃
+            .contactType(ContactType.PHONE_NUMBER)
+            .build();
+        assertSame(constraintValidatorFactory, defaultValidator.getConstraintValidatorFactory());
+
+        // When: Service(method validation)와 Controller(@Valid @RequestBody)를 반복 호출한다.
+        for (int i = 0; i < 3; i++) {
+            assertThrows(ConstraintViolationException.class, () -> contactService.createContact(createContact));
+            mockMvc.perform(post("/contacts")
+                    .content("{\"uid\":\"\uD83D\uDE03\",\"contactType\":\"PHONE_NUMBER\"}")
+                    .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+        }
+        final long hitsBefore = constraintValidatorFactory.getCacheHitCount();
+        try (ValidatorFactory policyValidatorFactory = Validation.byDefaultProvider().configure()
+            .constraintValidatorFactory(constraintValidatorFactory)
+            .buildValidatorFactory()) {
+            for (int i = 0; i < 3; i++) {
+                assertEquals(1, policyValidatorFactory.getValidator().validate(createContact).size());
+            }
+        }
+
+        // Then
+        assertEquals(1, constraintValidatorFactory.getInstantiationCount(NoEmojiValidator.class));
+        assertTrue(constraintValidatorFactory.getCacheHitCount() > hitsBefore);
+    }
+}
@@ -0,0 +1,213 @@
+package com.spring.validation.validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.spring.validation.enums.ContactType;
+import com.spring.validation.model.CreateContact;
+import com.spring.validation.model.Message;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.ConstraintValidatorFactory;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Size;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+class CachingConstraintValidatorFactoryTest {
+    private static final int THREADS = 16;
+    private static final int ITERATIONS = 5_000;
+
+    private ValidatorFactory plainValidatorFactory;
+    private CachingConstraintValidatorFactory constraintValidatorFactory;
+
+    @BeforeEach
+    void setUp() {
+        // AdMessageConstraintValidator의 생성자에 주입할 Validator를 등록한다.
+        plainValidatorFactory = Validation.buildDefaultValidatorFactory();
+        final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("validator", plainValidatorFactory.getValidator());
+        constraintValidatorFactory = new CachingConstraintValidatorFactory(beanFactory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        constraintValidatorFactory.close();
+        plainValidatorFactory.close();
+    }
+
+    /**
+     * <h3>
+     *   여러 스레드가 동시에 요청해도 상태가 없는 검사기는 클래스당 한 번만 생성된다.
+     * </h3>
+     */
+    @Test
+    void concurrentGetInstance() throws Exception {
+        // Given
+        final CyclicBarrier barrier = new CyclicBarrier(THREADS);
+        final List<Callable<Set<Object>>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            tasks.add(() -> {
+                final Set<Object> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+                barrier.await();
+                for (int j = 0; j < ITERATIONS; j++) {
+                    instances.add(constraintValidatorFactory.getInstance(NoEmojiValidator.class));
+                    instances.add(constraintValidatorFactory.getInstance(AdMessageConstraintValidator.class));
+                }
+                return instances;
+            });
+        }
+
+        // When
+        final Set<Object> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (Future<Set<Object>> future : executor.invokeAll(tasks, 30, TimeUnit.SECONDS)) {
+                instances.addAll(future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertEquals(2, instances.size());
+        assertEquals(1, constraintValidatorFactory.getInstantiationCount(NoEmojiValidator.class));
+        assertEquals(1, constraintValidatorFactory.getInstantiationCount(AdMessageConstraintValidator.class));
+        assertTrue(constraintValidatorFactory.getCacheHitCount() >= 2L * THREADS * (ITERATIONS - 1)); // 처음 경합한 요청만 캐시를 거치지 않는다.
+        assertTrue(constraintValidatorFactory.getTotalAutowireTime().toNanos() > 0);
+    }
+
+    /**
+     * <h3>
+     *   {@code initialize()}에서 속성 값을 보관하는 검사기는 공유하지 않는다.
+     * </h3>
+     */
+    @Test
+    void statefulValidatorIsNotShared() {
+        assertTrue(CachingConstraintValidatorFactory.isStateless(NoEmojiValidator.class));
+        assertTrue(CachingConstraintValidatorFactory.isStateless(AdMessageConstraintValidator.class));
+        assertFalse(CachingConstraintValidatorFactory.isStateless(MaxLengthValidator.class));
+
+        final MaxLengthValidator first = constraintValidatorFactory.getInstance(MaxLengthValidator.class);
+        final MaxLengthValidator second = constraintValidatorFactory.getInstance(MaxLengthValidator.class);
+        constraintValidatorFactory.releaseInstance(first);
+        constraintValidatorFactory.releaseInstance(second);
+
+        assertNotSame(first, second);
+        assertEquals(2, constraintValidatorFactory.getInstantiationCount(MaxLengthValidator.class));
+        assertEquals(2, constraintValidatorFactory.getReleaseCount());
+    }
+
+    /**
+     * <h3>
+     *   같은 factory를 사용하는 여러 {@link ValidatorFactory}가 동시에 검사해도 검사기를 공유하며 결과는 같다.
+     * </h3>
+     */
+    @Test
+    void concurrentValidationAcrossValidatorFactories() throws Exception {
+        // Given
+        final List<ValidatorFactory> validatorFactories = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            validatorFactories.add(Validation.byDefaultProvider().configure()
+                .constraintValidatorFactory(constraintValidatorFactory)
+                .buildValidatorFactory());
+        }
+        final CreateContact emoji = CreateContact.builder()
+            .uid("\uD83D\uDE03")
+            .contactType(ContactType.PHONE_NUMBER)
+            .build();
+        final Message ad = Message.builder()
+            .title("title")
+            .body("body")
+            .isAd(true)
+            .build();
+
+        // When
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        final List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS * 10; i++) {
+                final Validator validator = validatorFactories.get(i % validatorFactories.size()).getValidator();
+                results.add(executor.submit(() -> validator.validate(emoji).size() == 1
+                    && validator.validate(ad).size() == 2));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+            validatorFactories.forEach(ValidatorFactory::close);
+        }
+
+        // Then
+        assertSame(constraintValidatorFactory.getInstance(NoEmojiValidator.class),
+            constraintValidatorFactory.getInstance(NoEmojiValidator.class));
+        assertEquals(1, constraintValidatorFactory.getInstantiationCount(NoEmojiValidator.class));
+        assertEquals(1, constraintValidatorFactory.getInstantiationCount(AdMessageConstraintValidator.class));
+    }
+
+    /**
+     * <h3>
+     *   delegate가 요청한 클래스의 하위 클래스를 돌려줘도 공유 인스턴스는 {@code releaseInstance()}로 해제되지 않는다.
+     * </h3>
+     */
+    @Test
+    void sharedSubclassInstanceIsNotReleased() {
+        // Given
+        final List<ConstraintValidator<?, ?>> released = new ArrayList<>();
+        final CachingConstraintValidatorFactory factory = new CachingConstraintValidatorFactory(new ConstraintValidatorFactory() {
+            @Override
+            public <T extends ConstraintValidator<?, ?>> T getInstance(Class<T> key) {
+                return key.cast(new NoEmojiValidator() {
+                });
+            }
+
+            @Override
+            public void releaseInstance(ConstraintValidator<?, ?> instance) {
+                released.add(instance);
+            }
+        });
+        final NoEmojiValidator shared = factory.getInstance(NoEmojiValidator.class);
+
+        // When
+        factory.releaseInstance(shared);
+
+        // Then
+        assertTrue(released.isEmpty());
+        assertSame(shared, factory.getInstance(NoEmojiValidator.class));
+        factory.close();
+        assertEquals(List.of(shared), released);
+    }
+
+    static class MaxLengthValidator implements ConstraintValidator<Size, String> {
+        private int max;
+
+        @Override
+        public void initialize(Size constraintAnnotation) {
+            this.max = constraintAnnotation.max();
+        }
+
+        @Override
+        public boolean isValid(String value, ConstraintValidatorContext context) {
+            return value == null || value.length() <= max;
+        }
+    }
+}